@@ -0,0 +1,210 @@
+package br.com.zup.transferencias.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import br.com.zup.transferencias.TransferenciasApplication;
+import br.com.zup.transferencias.models.Cpf;
+import br.com.zup.transferencias.services.ModeloDeLeitura;
+import br.com.zup.transferencias.services.PreenchimentoDoLivroRazao;
+
+/**
+ * Contexto da aplicação compartilhado pelos benchmarks de um mesmo fork, sobre um H2 em memória
+ * semeado com {@code contas} contas e {@code transferenciasPorConta} transferências enviadas por
+ * conta. A carga é feita por JDBC em lotes, usando as mesmas sequences das entidades, para que a
+ * semeadura não pese no tempo de preparação e não aqueça os caminhos medidos. Em seguida o livro
+ * razão de todas as contas é aberto pelo {@link PreenchimentoDoLivroRazao}, como em uma base já
+ * migrada, para que nenhuma medição pague a reconstrução do histórico de uma conta. Com
+ * {@code modeloDeLeitura}, as consultas passam a ser servidas pelo {@link ModeloDeLeitura}, já
+ * sincronizado com todas as contas antes das medições.
+ */
+@State(Scope.Benchmark)
+public class AplicacaoSemeada {
+
+    private static final int TAMANHO_DO_LOTE = 1000;
+    private static final BigDecimal SALDO_INICIAL = new BigDecimal("1000000000.00");
+
+    @Param({"10000"})
+    public int contas;
+
+    @Param({"50"})
+    public int transferenciasPorConta;
+
+    @Param({"OTIMISTA"})
+    public String modo;
+
+    @Param({"false"})
+    public boolean modeloDeLeitura;
+
+    private ConfigurableApplicationContext contexto;
+    private long[] ids;
+    private final AtomicLong proximaContaNova = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(TransferenciasApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark",
+                "--spring.jpa.show-sql=false",
+                "--spring.jmx.enabled=false",
+                "--logging.level.root=warn",
+                "--transferencias.concorrencia.modo=" + modo,
+                "--transferencias.leitura.habilitado=" + modeloDeLeitura
+            );
+
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        semearContas(jdbcTemplate);
+        semearTransferencias(jdbcTemplate);
+        preencherLivroRazao();
+        sincronizarModeloDeLeitura();
+        proximaContaNova.set(contas);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    private void semearContas(JdbcTemplate jdbcTemplate) {
+        List<Object[]> lote = new ArrayList<>(TAMANHO_DO_LOTE);
+        for (int i = 0; i < contas; i++) {
+            Cpf cpf = new Cpf(cpf(i));
+            lote.add(
+                new Object[] {"0001", String.format("%06d", i % 1_000_000), email(i),
+                        cpf.getNumero(), cpf.getHash(), "Conta " + i, SALDO_INICIAL}
+            );
+
+            if (lote.size() == TAMANHO_DO_LOTE || i == contas - 1) {
+                jdbcTemplate.batchUpdate(
+                    "insert into contas (id, agencia, numero, email, numero_cpf, hash_cpf, titular, saldo, versao) "
+                            + "values (next value for contas_seq, ?, ?, ?, ?, ?, ?, ?, 0)",
+                    lote
+                );
+                lote.clear();
+            }
+        }
+
+        ids = jdbcTemplate.queryForList("select id from contas order by id", Long.class)
+                          .stream()
+                          .mapToLong(Long::longValue)
+                          .toArray();
+    }
+
+    private void semearTransferencias(JdbcTemplate jdbcTemplate) {
+        Timestamp dataHora = Timestamp.valueOf(LocalDateTime.now().minusDays(30));
+        List<Object[]> lote = new ArrayList<>(TAMANHO_DO_LOTE);
+        for (int i = 0; i < ids.length; i++) {
+            for (int k = 1; k <= transferenciasPorConta; k++) {
+                lote.add(new Object[] {ids[i], ids[(i + k) % ids.length], BigDecimal.ONE, dataHora});
+
+                if (lote.size() == TAMANHO_DO_LOTE) {
+                    inserirTransferencias(jdbcTemplate, lote);
+                    lote.clear();
+                }
+            }
+        }
+
+        if (!lote.isEmpty()) {
+            inserirTransferencias(jdbcTemplate, lote);
+        }
+    }
+
+    private void inserirTransferencias(JdbcTemplate jdbcTemplate, List<Object[]> lote) {
+        jdbcTemplate.batchUpdate(
+            "insert into transferencias (id, origem_id, destino_id, valor, data_hora) "
+                    + "values (next value for transferencias_seq, ?, ?, ?, ?)",
+            lote
+        );
+    }
+
+    private void preencherLivroRazao() {
+        PreenchimentoDoLivroRazao preenchimento = contexto.getBean(PreenchimentoDoLivroRazao.class);
+        while (preenchimento.preencher() > 0) {
+            // cada rodada abre o razão do próximo bloco de contas
+        }
+    }
+
+    private void sincronizarModeloDeLeitura() {
+        ModeloDeLeitura sincronizacao = contexto.getBean(ModeloDeLeitura.class);
+        while (sincronizacao.sincronizar() > 0) {
+            // cada rodada projeta o próximo bloco de contas
+        }
+    }
+
+    public <T> T getBean(Class<T> tipo) {
+        return contexto.getBean(tipo);
+    }
+
+    /**
+     * Requisição sem {@code If-None-Match}, para chamar os controllers condicionais como um cliente
+     * que ainda não tem a ETag e, portanto, sempre recebe a resposta completa.
+     */
+    public static WebRequest requisicao() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    public long contaAleatoria() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    /**
+     * Sorteia uma conta diferente da informada, para compor a origem e o destino de uma
+     * transferência.
+     */
+    public long contaAleatoriaDiferenteDe(long contaId) {
+        long sorteada;
+        do {
+            sorteada = contaAleatoria();
+        } while (sorteada == contaId);
+
+        return sorteada;
+    }
+
+    /**
+     * Conta para a qual convergem os cenários de contenção.
+     */
+    public long getContaQuente() {
+        return ids[0];
+    }
+
+    /**
+     * Índice ainda não usado por nenhuma conta, para gerar email e CPF únicos nos cadastros.
+     */
+    public long proximaContaNova() {
+        return proximaContaNova.getAndIncrement();
+    }
+
+    static String email(long indice) {
+        return "conta" + indice + "@benchmark.com";
+    }
+
+    static String cpf(long indice) {
+        long base = indice / 100;
+        return String.format(
+            "%03d.%03d.%03d-%02d", base / 1_000_000 % 1000, base / 1000 % 1000, base % 1000,
+            indice % 100
+        );
+    }
+
+}
@@ -0,0 +1,62 @@
+package br.com.zup.transferencias.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import br.com.zup.transferencias.controllers.CadastrarContaController;
+import br.com.zup.transferencias.controllers.requests.CadastrarContaRequest;
+
+/**
+ * Cadastros de contas pelo controller, cada um com email e CPF ainda não utilizados, de modo que
+ * toda chamada passa pelas duas verificações de unicidade e pela inserção.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CadastrarContaBenchmark {
+
+    private CadastrarContaController controller;
+
+    @Setup(Level.Trial)
+    public void iniciar(AplicacaoSemeada aplicacao) {
+        controller = aplicacao.getBean(CadastrarContaController.class);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResponseEntity<?> cadastrar(AplicacaoSemeada aplicacao) {
+        return cadastrarConcorrentemente(aplicacao);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseEntity<?> cadastrarConcorrentemente(AplicacaoSemeada aplicacao) {
+        long indice = aplicacao.proximaContaNova();
+
+        return controller.cadastrar(
+            new CadastrarContaRequest(
+                "0001", String.format("%06d", indice % 1_000_000), AplicacaoSemeada.email(indice),
+                AplicacaoSemeada.cpf(indice), "Conta " + indice
+            ),
+            UriComponentsBuilder.newInstance()
+        );
+    }
+
+}
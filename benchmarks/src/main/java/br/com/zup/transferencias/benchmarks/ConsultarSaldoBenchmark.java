@@ -0,0 +1,84 @@
+package br.com.zup.transferencias.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import br.com.zup.transferencias.controllers.ConsultarSaldoController;
+import br.com.zup.transferencias.models.Conta;
+import br.com.zup.transferencias.repositories.ContaRepository;
+import br.com.zup.transferencias.repositories.SaldoDaConta;
+import br.com.zup.transferencias.services.ListrasDeSaldo;
+
+/**
+ * Consultas de saldo pelo controller, de contas sorteadas a cada chamada e de uma mesma conta, e a
+ * leitura do saldo do banco, sem a memória do controller, pela projeção e pela conta completa. Com
+ * {@code -prof gc}, o {@code gc.alloc.rate.norm} das duas leituras compara a alocação por consulta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConsultarSaldoBenchmark {
+
+    private ConsultarSaldoController controller;
+    private ContaRepository contaRepository;
+    private ListrasDeSaldo listrasDeSaldo;
+
+    @Setup(Level.Trial)
+    public void iniciar(AplicacaoSemeada aplicacao) {
+        controller = aplicacao.getBean(ConsultarSaldoController.class);
+        contaRepository = aplicacao.getBean(ContaRepository.class);
+        listrasDeSaldo = aplicacao.getBean(ListrasDeSaldo.class);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResponseEntity<?> consultarContasAleatorias(AplicacaoSemeada aplicacao) {
+        return controller.consultar(aplicacao.contaAleatoria(), null, AplicacaoSemeada.requisicao());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseEntity<?> consultarContasAleatoriasConcorrentes(AplicacaoSemeada aplicacao) {
+        return controller.consultar(aplicacao.contaAleatoria(), null, AplicacaoSemeada.requisicao());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseEntity<?> consultarUmaContaQuente(AplicacaoSemeada aplicacao) {
+        return controller.consultar(aplicacao.getContaQuente(), null, AplicacaoSemeada.requisicao());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<SaldoDaConta> lerSaldoPelaProjecao(AplicacaoSemeada aplicacao) {
+        return contaRepository.buscarSaldo(aplicacao.contaAleatoria());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public BigDecimal lerSaldoPelaContaCompleta(AplicacaoSemeada aplicacao) {
+        Long id = aplicacao.contaAleatoria();
+        Conta conta = contaRepository.findById(id).get();
+
+        return conta.getSaldo().add(listrasDeSaldo.somarSaldo(id));
+    }
+
+}
@@ -0,0 +1,77 @@
+package br.com.zup.transferencias.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+
+import br.com.zup.transferencias.controllers.ListarTransferenciasController;
+
+/**
+ * Listagens de transferências pelo controller, por página ou por fatia, na primeira página e em
+ * uma página profunda, de contas sorteadas a cada chamada, na ordem de id e na ordem do livro
+ * razão.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ListarTransferenciasBenchmark {
+
+    @Param({"0", "4"})
+    public int pagina;
+
+    @Param({"20"})
+    public int tamanhoDaPagina;
+
+    @Param({"pagina", "fatia"})
+    public String modoDeListagem;
+
+    @Param({"id", "sequencia"})
+    public String ordenacao;
+
+    private ListarTransferenciasController controller;
+    private Pageable paginacao;
+
+    @Setup(Level.Trial)
+    public void iniciar(AplicacaoSemeada aplicacao) {
+        controller = aplicacao.getBean(ListarTransferenciasController.class);
+        paginacao = PageRequest.of(pagina, tamanhoDaPagina, Sort.by(ordenacao));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResponseEntity<?> listarContasAleatorias(AplicacaoSemeada aplicacao) {
+        return controller.listar(
+            aplicacao.contaAleatoria(), paginacao, modoDeListagem, null, null, null, null,
+            AplicacaoSemeada.requisicao()
+        );
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseEntity<?> listarContasAleatoriasConcorrentes(AplicacaoSemeada aplicacao) {
+        return controller.listar(
+            aplicacao.contaAleatoria(), paginacao, modoDeListagem, null, null, null, null,
+            AplicacaoSemeada.requisicao()
+        );
+    }
+
+}
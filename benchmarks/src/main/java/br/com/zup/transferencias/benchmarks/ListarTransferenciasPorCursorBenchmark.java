@@ -0,0 +1,81 @@
+package br.com.zup.transferencias.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import br.com.zup.transferencias.controllers.ListarTransferenciasController;
+import br.com.zup.transferencias.controllers.responses.ListarTransferenciasPorCursorResponse;
+
+/**
+ * Listagens de transferências pelo controller no modo cursor: cada thread percorre o histórico de
+ * uma conta sorteada do início ao fim, uma página por chamada, antes de sortear a próxima.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ListarTransferenciasPorCursorBenchmark {
+
+    @Param({"20"})
+    public int tamanhoDaPagina;
+
+    private ListarTransferenciasController controller;
+    private Pageable paginacao;
+
+    @Setup(Level.Trial)
+    public void iniciar(AplicacaoSemeada aplicacao) {
+        controller = aplicacao.getBean(ListarTransferenciasController.class);
+        paginacao = PageRequest.of(0, tamanhoDaPagina);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResponseEntity<?> percorrerContasAleatoriasPorCursor(AplicacaoSemeada aplicacao,
+                                                                 Percurso percurso) {
+        return percorrerContasAleatoriasPorCursorConcorrentes(aplicacao, percurso);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseEntity<?> percorrerContasAleatoriasPorCursorConcorrentes(AplicacaoSemeada aplicacao,
+                                                                            Percurso percurso) {
+        if (percurso.cursor == null) {
+            percurso.contaId = aplicacao.contaAleatoria();
+        }
+
+        ResponseEntity<?> response = controller.listar(
+            percurso.contaId, paginacao, "cursor", percurso.cursor, null, null, null,
+            AplicacaoSemeada.requisicao()
+        );
+        percurso.cursor = ((ListarTransferenciasPorCursorResponse) response.getBody()).getProximo();
+
+        return response;
+    }
+
+    @State(Scope.Thread)
+    public static class Percurso {
+
+        long contaId;
+        String cursor;
+
+    }
+
+}
@@ -0,0 +1,121 @@
+package br.com.zup.transferencias.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import br.com.zup.transferencias.controllers.ConsultarSaldoController;
+import br.com.zup.transferencias.controllers.TransferirEntreContasController;
+import br.com.zup.transferencias.controllers.requests.TransferirEntreContasRequest;
+
+/**
+ * Transferências pelo controller, com contas sorteadas a cada chamada (pouca contenção) e com
+ * todas as threads convergindo para uma mesma conta de destino (contenção máxima). Nos cenários
+ * de contenção, as transferências recusadas por conflito ou sobrecarga são contadas em
+ * {@link Recusas} em vez de interromper a medição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransferirEntreContasBenchmark {
+
+    private static final BigDecimal VALOR = new BigDecimal("0.01");
+
+    private TransferirEntreContasController transferirController;
+    private ConsultarSaldoController consultarController;
+
+    @Setup(Level.Trial)
+    public void iniciar(AplicacaoSemeada aplicacao) {
+        transferirController = aplicacao.getBean(TransferirEntreContasController.class);
+        consultarController = aplicacao.getBean(ConsultarSaldoController.class);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ResponseEntity<?> transferirEntreContasAleatorias(AplicacaoSemeada aplicacao) {
+        return transferirEntreContasAleatoriasConcorrentes(aplicacao);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseEntity<?> transferirEntreContasAleatoriasConcorrentes(AplicacaoSemeada aplicacao) {
+        long origemId = aplicacao.contaAleatoria();
+        long destinoId = aplicacao.contaAleatoriaDiferenteDe(origemId);
+
+        return transferir(origemId, destinoId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ResponseEntity<?> transferirParaUmaContaQuente(AplicacaoSemeada aplicacao, Recusas recusas) {
+        return transferirParaAContaQuente(aplicacao, recusas);
+    }
+
+    /**
+     * Metade das threads credita a conta quente enquanto a outra metade consulta o seu saldo.
+     */
+    @Benchmark
+    @Group("contaQuente")
+    @GroupThreads(4)
+    public ResponseEntity<?> transferirParaAContaQuente(AplicacaoSemeada aplicacao, Recusas recusas) {
+        long destinoId = aplicacao.getContaQuente();
+        long origemId = aplicacao.contaAleatoriaDiferenteDe(destinoId);
+
+        try {
+            return transferir(origemId, destinoId);
+        } catch (OptimisticLockingFailureException | ResponseStatusException e) {
+            recusas.recusas++;
+            return null;
+        }
+    }
+
+    @Benchmark
+    @Group("contaQuente")
+    @GroupThreads(4)
+    public ResponseEntity<?> consultarAContaQuente(AplicacaoSemeada aplicacao) {
+        return consultarController.consultar(aplicacao.getContaQuente(), null, AplicacaoSemeada.requisicao());
+    }
+
+    private ResponseEntity<?> transferir(long origemId, long destinoId) {
+        return transferirController.transferir(
+            new TransferirEntreContasRequest(origemId, destinoId, VALOR), null,
+            UriComponentsBuilder.newInstance()
+        );
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Recusas {
+
+        public long recusas;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            recusas = 0;
+        }
+
+    }
+
+}